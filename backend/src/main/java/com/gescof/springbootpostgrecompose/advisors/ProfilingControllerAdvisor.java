@@ -0,0 +1,50 @@
+package com.gescof.springbootpostgrecompose.advisors;
+
+import com.gescof.springbootpostgrecompose.exceptions.ProfilingAlreadyStartedException;
+import com.gescof.springbootpostgrecompose.exceptions.ProfilingNotStartedException;
+import com.gescof.springbootpostgrecompose.exceptions.ProfilingUnauthorizedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+@Log4j2
+@RequiredArgsConstructor
+@RestControllerAdvice
+public class ProfilingControllerAdvisor {
+    private final Clock clock;
+
+    @ExceptionHandler({ProfilingAlreadyStartedException.class, ProfilingNotStartedException.class})
+    public ResponseEntity<Object> handleProfilingStateException(RuntimeException exception, WebRequest request) {
+        log.warn(String.format("Handling profiling state exception %s for request %s",
+                exception.getClass().getSimpleName(),
+                Objects.nonNull(request) ? request.getDescription(true) : ""));
+        return getResponseEntity(HttpStatus.CONFLICT, exception.getMessage(), exception.getClass().getSimpleName());
+    }
+
+    @ExceptionHandler(ProfilingUnauthorizedException.class)
+    public ResponseEntity<Object> handleProfilingUnauthorizedException(
+            ProfilingUnauthorizedException exception, WebRequest request) {
+        log.warn(String.format("Handling profiling unauthorized exception for request %s",
+                Objects.nonNull(request) ? request.getDescription(true) : ""));
+        return getResponseEntity(HttpStatus.UNAUTHORIZED, exception.getMessage(), exception.getClass().getSimpleName());
+    }
+
+    private ResponseEntity<Object> getResponseEntity(HttpStatus status, String message, String errors) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now(clock));
+        body.put("status", status.toString());
+        body.put("message", message);
+        body.put("errors", errors);
+        return new ResponseEntity<>(body, status);
+    }
+}
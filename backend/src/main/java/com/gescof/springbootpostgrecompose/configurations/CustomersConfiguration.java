@@ -1,5 +1,7 @@
 package com.gescof.springbootpostgrecompose.configurations;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gescof.springbootpostgrecompose.converters.CustomersJsonHttpMessageConverter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -11,4 +13,9 @@ public class CustomersConfiguration {
     public Clock clock() {
         return Clock.systemDefaultZone();
     }
+
+    @Bean
+    public CustomersJsonHttpMessageConverter customersJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        return new CustomersJsonHttpMessageConverter(objectMapper);
+    }
 }
@@ -0,0 +1,20 @@
+package com.gescof.springbootpostgrecompose.configurations;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.text.ParseException;
+
+@Configuration
+@ConditionalOnProperty(prefix = "profiling", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ProfilingProperties.class)
+public class ProfilingConfiguration {
+    @Bean
+    public jdk.jfr.Configuration recordingConfiguration(ProfilingProperties profilingProperties)
+            throws IOException, ParseException {
+        return jdk.jfr.Configuration.getConfiguration(profilingProperties.settings());
+    }
+}
@@ -0,0 +1,17 @@
+package com.gescof.springbootpostgrecompose.configurations;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "profiling")
+public record ProfilingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("5m") Duration maxDuration,
+        @DefaultValue("100MB") DataSize maxSize,
+        @DefaultValue("profile") String settings,
+        String token
+) {
+}
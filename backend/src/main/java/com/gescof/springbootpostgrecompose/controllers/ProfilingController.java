@@ -0,0 +1,83 @@
+package com.gescof.springbootpostgrecompose.controllers;
+
+import com.gescof.springbootpostgrecompose.configurations.ProfilingProperties;
+import com.gescof.springbootpostgrecompose.exceptions.ProfilingUnauthorizedException;
+import com.gescof.springbootpostgrecompose.services.ProfilingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Objects;
+
+@Log4j2
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("api/v1/admin/profiling/")
+@ConditionalOnProperty(prefix = "profiling", name = "enabled", havingValue = "true")
+public class ProfilingController {
+    public static final String PROFILING_TOKEN_HEADER = "X-Profiling-Token";
+
+    private final ProfilingProperties profilingProperties;
+    private final ProfilingService profilingService;
+
+    @PostMapping("start")
+    public ResponseEntity<Long> startRecording(
+            @RequestHeader(name = PROFILING_TOKEN_HEADER, required = false) String profilingToken,
+            @RequestParam(required = false) Duration duration) {
+        log.info("POST /admin/profiling/start");
+        checkProfilingToken(profilingToken);
+        return ResponseEntity.ok(profilingService.startRecording(duration));
+    }
+
+    @PostMapping("stop")
+    public ResponseEntity<Resource> stopRecording(
+            @RequestHeader(name = PROFILING_TOKEN_HEADER, required = false) String profilingToken)
+            throws IOException {
+        log.info("POST /admin/profiling/stop");
+        checkProfilingToken(profilingToken);
+        var recordingFile = profilingService.stopRecording();
+        long recordingFileSize;
+        InputStream recordingInputStream;
+        try {
+            recordingFileSize = Files.size(recordingFile);
+            recordingInputStream = Files.newInputStream(recordingFile, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException ioException) {
+            Files.deleteIfExists(recordingFile);
+            throw ioException;
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(recordingFileSize)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(recordingFile.getFileName().toString()).build().toString())
+                .body(new InputStreamResource(recordingInputStream));
+    }
+
+    private void checkProfilingToken(String profilingToken) {
+        var configuredToken = profilingProperties.token();
+        if (!StringUtils.hasText(configuredToken) || Objects.isNull(profilingToken)
+                || !MessageDigest.isEqual(configuredToken.getBytes(StandardCharsets.UTF_8),
+                profilingToken.getBytes(StandardCharsets.UTF_8))) {
+            throw new ProfilingUnauthorizedException();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.gescof.springbootpostgrecompose.converters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gescof.springbootpostgrecompose.events.CustomersSerializationEvent;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.NonNull;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+public class CustomersJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+    public CustomersJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    @NonNull
+    public Object read(@NonNull Type type, Class<?> contextClass, @NonNull HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        try (var serializationEvent = CustomersSerializationEvent.start("read")) {
+            var object = super.read(type, contextClass, inputMessage);
+            serializationEvent.setRowCount(getRowCount(object));
+            return object;
+        }
+    }
+
+    @Override
+    protected void writeInternal(@NonNull Object object, Type type, @NonNull HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        try (var serializationEvent = CustomersSerializationEvent.start("write")) {
+            super.writeInternal(object, type, outputMessage);
+            serializationEvent.setRowCount(getRowCount(object));
+        }
+    }
+
+    private int getRowCount(Object object) {
+        return object instanceof Collection<?> collection ? collection.size() : 1;
+    }
+}
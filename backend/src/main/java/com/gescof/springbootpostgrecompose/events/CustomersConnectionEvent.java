@@ -0,0 +1,18 @@
+package com.gescof.springbootpostgrecompose.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.gescof.springbootpostgrecompose.CustomersConnection")
+@Label("Customers Connection")
+@Description("Time spent acquiring a JDBC connection, including Hikari pool wait")
+public class CustomersConnectionEvent extends CustomersEvent {
+    private CustomersConnectionEvent(String operation) {
+        super(operation);
+    }
+
+    public static CustomersConnectionEvent start(String operation) {
+        return start(new CustomersConnectionEvent(operation));
+    }
+}
@@ -0,0 +1,39 @@
+package com.gescof.springbootpostgrecompose.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+@Category({"Spring Boot Postgre Compose", "Customers"})
+@StackTrace(false)
+public abstract class CustomersEvent extends Event implements AutoCloseable {
+    @Label("Request Id")
+    protected String requestId;
+    @Label("Operation")
+    protected String operation;
+    @Label("Row Count")
+    protected int rowCount;
+
+    protected CustomersEvent(String operation) {
+        this.operation = operation;
+    }
+
+    protected static <T extends CustomersEvent> T start(T event) {
+        event.begin();
+        return event;
+    }
+
+    public void setRowCount(int rowCount) {
+        this.rowCount = rowCount;
+    }
+
+    @Override
+    public void close() {
+        end();
+        if (shouldCommit()) {
+            requestId = CustomersRequestContext.getRequestId();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.gescof.springbootpostgrecompose.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.gescof.springbootpostgrecompose.CustomersFlush")
+@Label("Customers Flush")
+@Description("Time spent in a Hibernate flush, row count is the number of flushed entities")
+public class CustomersFlushEvent extends CustomersEvent {
+    private CustomersFlushEvent(String operation) {
+        super(operation);
+    }
+
+    public static CustomersFlushEvent start(String operation) {
+        return start(new CustomersFlushEvent(operation));
+    }
+}
@@ -0,0 +1,18 @@
+package com.gescof.springbootpostgrecompose.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.gescof.springbootpostgrecompose.CustomersMapper")
+@Label("Customers Mapper")
+@Description("Time spent in a customers mapping step, by CustomersMapper or property copy")
+public class CustomersMapperEvent extends CustomersEvent {
+    private CustomersMapperEvent(String operation) {
+        super(operation);
+    }
+
+    public static CustomersMapperEvent start(String operation) {
+        return start(new CustomersMapperEvent(operation));
+    }
+}
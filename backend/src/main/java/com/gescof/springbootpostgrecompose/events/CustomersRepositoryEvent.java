@@ -0,0 +1,18 @@
+package com.gescof.springbootpostgrecompose.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.gescof.springbootpostgrecompose.CustomersRepository")
+@Label("Customers Repository")
+@Description("Total time spent in a CustomersRepository call, split by the connection, statement and flush events")
+public class CustomersRepositoryEvent extends CustomersEvent {
+    private CustomersRepositoryEvent(String operation) {
+        super(operation);
+    }
+
+    public static CustomersRepositoryEvent start(String operation) {
+        return start(new CustomersRepositoryEvent(operation));
+    }
+}
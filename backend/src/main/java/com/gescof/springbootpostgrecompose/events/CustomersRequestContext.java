@@ -0,0 +1,21 @@
+package com.gescof.springbootpostgrecompose.events;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CustomersRequestContext {
+    private static final ThreadLocal<String> REQUEST_ID = new ThreadLocal<>();
+
+    public static String getRequestId() {
+        return REQUEST_ID.get();
+    }
+
+    public static void setRequestId(String requestId) {
+        REQUEST_ID.set(requestId);
+    }
+
+    public static void clear() {
+        REQUEST_ID.remove();
+    }
+}
@@ -0,0 +1,44 @@
+package com.gescof.springbootpostgrecompose.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.gescof.springbootpostgrecompose.CustomersRequest")
+@Label("Customers Request")
+@Description("Whole customers HTTP request, including Jackson (de)serialization around the controller")
+@Category({"Spring Boot Postgre Compose", "Customers"})
+@StackTrace(false)
+public class CustomersRequestEvent extends Event {
+    @Label("Request Id")
+    private String requestId;
+    @Label("Method")
+    private String method;
+    @Label("Path")
+    private String path;
+    @Label("Status")
+    private int status;
+
+    private CustomersRequestEvent(String requestId, String method, String path) {
+        this.requestId = requestId;
+        this.method = method;
+        this.path = path;
+    }
+
+    public static CustomersRequestEvent start(String requestId, String method, String path) {
+        var event = new CustomersRequestEvent(requestId, method, path);
+        event.begin();
+        return event;
+    }
+
+    public void finish(int status) {
+        end();
+        if (shouldCommit()) {
+            this.status = status;
+            commit();
+        }
+    }
+}
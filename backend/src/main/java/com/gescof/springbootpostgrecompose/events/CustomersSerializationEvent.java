@@ -0,0 +1,18 @@
+package com.gescof.springbootpostgrecompose.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.gescof.springbootpostgrecompose.CustomersSerialization")
+@Label("Customers Serialization")
+@Description("Time spent by Jackson reading a request body or writing a response body")
+public class CustomersSerializationEvent extends CustomersEvent {
+    private CustomersSerializationEvent(String operation) {
+        super(operation);
+    }
+
+    public static CustomersSerializationEvent start(String operation) {
+        return start(new CustomersSerializationEvent(operation));
+    }
+}
@@ -0,0 +1,18 @@
+package com.gescof.springbootpostgrecompose.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.gescof.springbootpostgrecompose.CustomersService")
+@Label("Customers Service")
+@Description("Time spent in a CustomersService operation")
+public class CustomersServiceEvent extends CustomersEvent {
+    private CustomersServiceEvent(String operation) {
+        super(operation);
+    }
+
+    public static CustomersServiceEvent start(String operation) {
+        return start(new CustomersServiceEvent(operation));
+    }
+}
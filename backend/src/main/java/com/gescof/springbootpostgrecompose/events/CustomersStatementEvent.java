@@ -0,0 +1,18 @@
+package com.gescof.springbootpostgrecompose.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.gescof.springbootpostgrecompose.CustomersStatement")
+@Label("Customers Statement")
+@Description("Time spent executing a JDBC statement or batch")
+public class CustomersStatementEvent extends CustomersEvent {
+    private CustomersStatementEvent(String operation) {
+        super(operation);
+    }
+
+    public static CustomersStatementEvent start(String operation) {
+        return start(new CustomersStatementEvent(operation));
+    }
+}
@@ -0,0 +1,4 @@
+package com.gescof.springbootpostgrecompose.exceptions;
+
+public class ProfilingUnauthorizedException extends RuntimeException {
+}
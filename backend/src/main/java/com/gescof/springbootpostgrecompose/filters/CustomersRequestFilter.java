@@ -0,0 +1,57 @@
+package com.gescof.springbootpostgrecompose.filters;
+
+import com.gescof.springbootpostgrecompose.events.CustomersRequestContext;
+import com.gescof.springbootpostgrecompose.events.CustomersRequestEvent;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.util.UUID;
+
+@Component
+public class CustomersRequestFilter extends OncePerRequestFilter {
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    private static final String CUSTOMERS_PATH = "/api/v1/customers";
+    private static final String CUSTOMERS_PATH_PREFIX = CUSTOMERS_PATH + "/";
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        var path = UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+        return !path.equals(CUSTOMERS_PATH) && !path.startsWith(CUSTOMERS_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        var requestId = getRequestId(request);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        CustomersRequestContext.setRequestId(requestId);
+
+        var requestEvent = CustomersRequestEvent.start(requestId, request.getMethod(), request.getRequestURI());
+        var status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            requestEvent.finish(status);
+            CustomersRequestContext.clear();
+        }
+    }
+
+    private String getRequestId(HttpServletRequest request) {
+        var requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (!StringUtils.hasText(requestId) || requestId.length() > MAX_REQUEST_ID_LENGTH) {
+            return UUID.randomUUID().toString();
+        }
+        return requestId;
+    }
+}
@@ -0,0 +1,79 @@
+package com.gescof.springbootpostgrecompose.persistence.listeners;
+
+import com.gescof.springbootpostgrecompose.events.CustomersConnectionEvent;
+import com.gescof.springbootpostgrecompose.events.CustomersEvent;
+import com.gescof.springbootpostgrecompose.events.CustomersFlushEvent;
+import com.gescof.springbootpostgrecompose.events.CustomersStatementEvent;
+import org.hibernate.BaseSessionEventListener;
+
+import java.util.Objects;
+
+public class CustomersSessionEventListener extends BaseSessionEventListener {
+    private transient CustomersEvent connectionEvent;
+    private transient CustomersEvent statementEvent;
+    private transient CustomersEvent flushEvent;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        connectionEvent = CustomersConnectionEvent.start("acquireConnection");
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        connectionEvent = close(connectionEvent);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementEvent = CustomersStatementEvent.start("executeStatement");
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        statementEvent = close(statementEvent);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        statementEvent = CustomersStatementEvent.start("executeBatch");
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        statementEvent = close(statementEvent);
+    }
+
+    @Override
+    public void flushStart() {
+        flushEvent = CustomersFlushEvent.start("flush");
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        flushEvent = close(flushEvent, numberOfEntities);
+    }
+
+    @Override
+    public void partialFlushStart() {
+        flushEvent = CustomersFlushEvent.start("partialFlush");
+    }
+
+    @Override
+    public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+        flushEvent = close(flushEvent, numberOfEntities);
+    }
+
+    private CustomersEvent close(CustomersEvent event) {
+        if (Objects.nonNull(event)) {
+            event.close();
+        }
+        return null;
+    }
+
+    private CustomersEvent close(CustomersEvent event, int rowCount) {
+        if (Objects.nonNull(event)) {
+            event.setRowCount(rowCount);
+        }
+        return close(event);
+    }
+}
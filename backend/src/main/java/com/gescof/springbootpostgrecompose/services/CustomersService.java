@@ -1,8 +1,12 @@
 package com.gescof.springbootpostgrecompose.services;
 
+import com.gescof.springbootpostgrecompose.events.CustomersMapperEvent;
+import com.gescof.springbootpostgrecompose.events.CustomersRepositoryEvent;
+import com.gescof.springbootpostgrecompose.events.CustomersServiceEvent;
 import com.gescof.springbootpostgrecompose.exceptions.CustomersNotFoundException;
 import com.gescof.springbootpostgrecompose.models.CustomerRequest;
 import com.gescof.springbootpostgrecompose.models.CustomerResponse;
+import com.gescof.springbootpostgrecompose.persistence.entities.Customer;
 import com.gescof.springbootpostgrecompose.persistence.repos.CustomersRepository;
 import com.gescof.springbootpostgrecompose.services.mappers.CustomersMapper;
 import lombok.RequiredArgsConstructor;
@@ -23,40 +27,87 @@ public class CustomersService {
     public List<CustomerResponse> getCustomers() {
         log.debug("Starting getCustomers service");
 
-        var customersList = customersRepository.findAll();
-        if (customersList.isEmpty()) {
-            throw new CustomersNotFoundException();
-        }
+        try (var serviceEvent = CustomersServiceEvent.start("getCustomers")) {
+            List<Customer> customersList;
+            try (var repositoryEvent = CustomersRepositoryEvent.start("findAll")) {
+                customersList = customersRepository.findAll();
+                repositoryEvent.setRowCount(customersList.size());
+            }
+            if (customersList.isEmpty()) {
+                throw new CustomersNotFoundException();
+            }
+
+            List<CustomerResponse> customerResponseList;
+            try (var mapperEvent = CustomersMapperEvent.start("customerEntityListToCustomerResponseList")) {
+                customerResponseList = customersMapper.customerEntityListToCustomerResponseList(customersList);
+                mapperEvent.setRowCount(customerResponseList.size());
+            }
 
-        return customersMapper.customerEntityListToCustomerResponseList(customersList);
+            serviceEvent.setRowCount(customerResponseList.size());
+            return customerResponseList;
+        }
     }
 
     public Long createCustomer(CustomerRequest customerRequest) {
         log.debug("Starting createCustomer service");
 
-        var newCustomer = customersMapper.customerRequestToCustomerEntity(customerRequest);
+        try (var serviceEvent = CustomersServiceEvent.start("createCustomer")) {
+            Customer newCustomer;
+            try (var mapperEvent = CustomersMapperEvent.start("customerRequestToCustomerEntity")) {
+                newCustomer = customersMapper.customerRequestToCustomerEntity(customerRequest);
+                mapperEvent.setRowCount(1);
+            }
 
-        return customersRepository.save(newCustomer).getId();
+            Long newCustomerId;
+            try (var repositoryEvent = CustomersRepositoryEvent.start("save")) {
+                newCustomerId = customersRepository.save(newCustomer).getId();
+                repositoryEvent.setRowCount(1);
+            }
+
+            serviceEvent.setRowCount(1);
+            return newCustomerId;
+        }
     }
 
     public Long updateCustomer(Long customerId, CustomerRequest customerRequest) {
         log.debug("Starting updateCustomer service");
 
-        var foundCustomer = customersRepository.findById(customerId).orElseThrow(CustomersNotFoundException::new);
-        BeanUtils.copyProperties(customerRequest, foundCustomer);
+        try (var serviceEvent = CustomersServiceEvent.start("updateCustomer")) {
+            Customer foundCustomer;
+            try (var repositoryEvent = CustomersRepositoryEvent.start("findById")) {
+                foundCustomer = customersRepository.findById(customerId).orElseThrow(CustomersNotFoundException::new);
+                repositoryEvent.setRowCount(1);
+            }
 
-        return customersRepository.save(foundCustomer).getId();
+            try (var mapperEvent = CustomersMapperEvent.start("copyProperties")) {
+                BeanUtils.copyProperties(customerRequest, foundCustomer);
+                mapperEvent.setRowCount(1);
+            }
+
+            Long updatedCustomerId;
+            try (var repositoryEvent = CustomersRepositoryEvent.start("save")) {
+                updatedCustomerId = customersRepository.save(foundCustomer).getId();
+                repositoryEvent.setRowCount(1);
+            }
+
+            serviceEvent.setRowCount(1);
+            return updatedCustomerId;
+        }
     }
 
     public Boolean deleteCustomer(Long customerId) {
         log.debug("Starting deleteCustomer service");
 
-        try {
-            customersRepository.deleteById(customerId);
-        } catch (EmptyResultDataAccessException emptyResultDataAccessException) {
-            throw new CustomersNotFoundException();
-        }
+        try (var serviceEvent = CustomersServiceEvent.start("deleteCustomer")) {
+            try (var repositoryEvent = CustomersRepositoryEvent.start("deleteById")) {
+                customersRepository.deleteById(customerId);
+                repositoryEvent.setRowCount(1);
+            } catch (EmptyResultDataAccessException emptyResultDataAccessException) {
+                throw new CustomersNotFoundException();
+            }
 
-        return true;
+            serviceEvent.setRowCount(1);
+            return true;
+        }
     }
 }
@@ -0,0 +1,107 @@
+package com.gescof.springbootpostgrecompose.services;
+
+import com.gescof.springbootpostgrecompose.configurations.ProfilingProperties;
+import com.gescof.springbootpostgrecompose.exceptions.ProfilingAlreadyStartedException;
+import com.gescof.springbootpostgrecompose.exceptions.ProfilingNotStartedException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Log4j2
+@RequiredArgsConstructor
+@Service
+@ConditionalOnProperty(prefix = "profiling", name = "enabled", havingValue = "true")
+public class ProfilingService {
+    private static final String RECORDING_NAME = "customers-profiling";
+    private static final Map<String, String> SENSITIVE_EVENT_SETTINGS = Map.of(
+            "jdk.InitialEnvironmentVariable#enabled", "false",
+            "jdk.InitialSystemProperty#enabled", "false",
+            "jdk.JVMInformation#enabled", "false",
+            "jdk.SystemProcess#enabled", "false"
+    );
+
+    private final ProfilingProperties profilingProperties;
+    private final Configuration recordingConfiguration;
+    private final AtomicReference<Recording> currentRecording = new AtomicReference<>();
+    private final AtomicReference<Path> lastRecordingFile = new AtomicReference<>();
+
+    public Long startRecording(Duration duration) {
+        log.debug("Starting startRecording service");
+
+        var recording = createRecording(getRecordingSettings());
+        try {
+            recording.setName(RECORDING_NAME);
+            recording.setToDisk(true);
+            recording.setMaxSize(profilingProperties.maxSize().toBytes());
+            recording.setDuration(getBoundedDuration(duration));
+            if (!currentRecording.compareAndSet(null, recording)) {
+                throw new ProfilingAlreadyStartedException();
+            }
+            recording.start();
+        } catch (RuntimeException runtimeException) {
+            currentRecording.compareAndSet(recording, null);
+            recording.close();
+            throw runtimeException;
+        }
+
+        return recording.getId();
+    }
+
+    public Path stopRecording() throws IOException {
+        log.debug("Starting stopRecording service");
+
+        var recording = Optional.ofNullable(currentRecording.getAndSet(null))
+                .orElseThrow(ProfilingNotStartedException::new);
+        try (recording) {
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            var previousRecordingFile = lastRecordingFile.getAndSet(null);
+            if (Objects.nonNull(previousRecordingFile)) {
+                Files.deleteIfExists(previousRecordingFile);
+            }
+            var recordingFile = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+            try {
+                recording.dump(recordingFile);
+            } catch (IOException ioException) {
+                Files.deleteIfExists(recordingFile);
+                throw ioException;
+            }
+            lastRecordingFile.set(recordingFile);
+            return recordingFile;
+        }
+    }
+
+    Recording createRecording(Map<String, String> settings) {
+        return new Recording(settings);
+    }
+
+    private Map<String, String> getRecordingSettings() {
+        var settings = new HashMap<>(recordingConfiguration.getSettings());
+        settings.putAll(SENSITIVE_EVENT_SETTINGS);
+        return settings;
+    }
+
+    private Duration getBoundedDuration(Duration duration) {
+        var maxDuration = profilingProperties.maxDuration();
+        if (Objects.isNull(duration) || duration.isNegative() || duration.isZero()
+                || duration.compareTo(maxDuration) > 0) {
+            return maxDuration;
+        }
+        return duration;
+    }
+}
@@ -0,0 +1,199 @@
+package com.gescof.springbootpostgrecompose.controllers;
+
+import com.gescof.springbootpostgrecompose.advisors.ProfilingControllerAdvisor;
+import com.gescof.springbootpostgrecompose.configurations.ProfilingConfiguration;
+import com.gescof.springbootpostgrecompose.configurations.ProfilingProperties;
+import com.gescof.springbootpostgrecompose.exceptions.ProfilingAlreadyStartedException;
+import com.gescof.springbootpostgrecompose.exceptions.ProfilingNotStartedException;
+import com.gescof.springbootpostgrecompose.exceptions.ProfilingUnauthorizedException;
+import com.gescof.springbootpostgrecompose.services.ProfilingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {
+        ProfilingConfiguration.class,
+        ProfilingController.class
+})
+@TestPropertySource(properties = {
+        "profiling.enabled=true",
+        "profiling.token=test-token"
+})
+@ActiveProfiles("test")
+class ProfilingControllerTest {
+    @Autowired
+    private ProfilingController profilingController;
+
+    @MockBean
+    private ProfilingService profilingServiceMock;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(profilingController)
+                .setControllerAdvice(new ProfilingControllerAdvisor(Clock.systemDefaultZone()))
+                .build();
+    }
+
+    @Test
+    void startRecording_shouldReturnOk() throws Exception {
+        // When
+        doReturn(1L).when(profilingServiceMock).startRecording(Duration.ofSeconds(30));
+
+        // Assert
+        mockMvc.perform(post("/api/v1/admin/profiling/start")
+                        .header(ProfilingController.PROFILING_TOKEN_HEADER, "test-token")
+                        .param("duration", "PT30S")
+                        .accept(MimeTypeUtils.APPLICATION_JSON_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().string("1"));
+    }
+
+    @Test
+    void startRecording_alreadyStarted_shouldReturnConflict() throws Exception {
+        // When
+        doThrow(ProfilingAlreadyStartedException.class).when(profilingServiceMock).startRecording(any());
+
+        // Assert
+        mockMvc.perform(post("/api/v1/admin/profiling/start")
+                        .header(ProfilingController.PROFILING_TOKEN_HEADER, "test-token")
+                        .accept(MimeTypeUtils.APPLICATION_JSON_VALUE))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errors").value("ProfilingAlreadyStartedException"));
+    }
+
+    @Test
+    void stopRecording_notStarted_shouldReturnConflict() throws Exception {
+        // When
+        doThrow(ProfilingNotStartedException.class).when(profilingServiceMock).stopRecording();
+
+        // Assert
+        mockMvc.perform(post("/api/v1/admin/profiling/stop")
+                        .header(ProfilingController.PROFILING_TOKEN_HEADER, "test-token")
+                        .accept(MimeTypeUtils.APPLICATION_JSON_VALUE))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errors").value("ProfilingNotStartedException"));
+    }
+
+    @Test
+    void stopRecording_started_shouldReturnAttachmentAndDeleteFile() throws Exception {
+        // Given
+        final Path mockedRecordingFile = Files.createTempFile("customers-profiling-", ".jfr");
+        Files.writeString(mockedRecordingFile, "recording", StandardCharsets.UTF_8);
+
+        // When
+        doReturn(mockedRecordingFile).when(profilingServiceMock).stopRecording();
+
+        // Assert
+        mockMvc.perform(post("/api/v1/admin/profiling/stop")
+                        .header(ProfilingController.PROFILING_TOKEN_HEADER, "test-token"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + mockedRecordingFile.getFileName() + "\""))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 9))
+                .andExpect(content().string("recording"));
+        assertFalse(Files.exists(mockedRecordingFile));
+    }
+
+    @Test
+    void startRecording_missingToken_shouldReturnUnauthorized() throws Exception {
+        // Assert
+        mockMvc.perform(post("/api/v1/admin/profiling/start")
+                        .accept(MimeTypeUtils.APPLICATION_JSON_VALUE))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.errors").value("ProfilingUnauthorizedException"));
+        verify(profilingServiceMock, never()).startRecording(any());
+    }
+
+    @Test
+    void stopRecording_wrongToken_shouldReturnUnauthorized() throws Exception {
+        // Assert
+        mockMvc.perform(post("/api/v1/admin/profiling/stop")
+                        .header(ProfilingController.PROFILING_TOKEN_HEADER, "wrong-token")
+                        .accept(MimeTypeUtils.APPLICATION_JSON_VALUE))
+                .andExpect(status().isUnauthorized());
+        verify(profilingServiceMock, never()).stopRecording();
+    }
+
+    @Test
+    void startRecording_noConfiguredToken_shouldThrowProfilingUnauthorizedException() {
+        // Given
+        final ProfilingController unconfiguredProfilingController = new ProfilingController(
+                new ProfilingProperties(true, Duration.ofMinutes(5), DataSize.ofMegabytes(100), "profile", ""),
+                profilingServiceMock);
+
+        // Then
+        assertThrows(ProfilingUnauthorizedException.class,
+                () -> unconfiguredProfilingController.startRecording("", null));
+
+        // Assert
+        verify(profilingServiceMock, never()).startRecording(any());
+    }
+
+    @Test
+    void stopRecording_largeRecording_shouldReturnWholeFileAndDeleteIt() throws Exception {
+        // Given
+        final byte[] largeRecording = new byte[64 * 1024 * 1024];
+        Arrays.fill(largeRecording, (byte) 'r');
+        final Path mockedRecordingFile = Files.createTempFile("customers-profiling-", ".jfr");
+        Files.write(mockedRecordingFile, largeRecording);
+
+        // When
+        doReturn(mockedRecordingFile).when(profilingServiceMock).stopRecording();
+
+        // Then
+        final MvcResult result = mockMvc.perform(post("/api/v1/admin/profiling/stop")
+                        .header(ProfilingController.PROFILING_TOKEN_HEADER, "test-token"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, largeRecording.length))
+                .andReturn();
+
+        // Assert
+        assertAll("Large recording should be returned whole and deleted",
+                () -> assertArrayEquals(largeRecording, result.getResponse().getContentAsByteArray()),
+                () -> assertFalse(Files.exists(mockedRecordingFile))
+        );
+    }
+}
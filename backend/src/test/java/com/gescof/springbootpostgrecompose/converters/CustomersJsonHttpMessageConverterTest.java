@@ -0,0 +1,86 @@
+package com.gescof.springbootpostgrecompose.converters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gescof.springbootpostgrecompose.events.CustomersEventsRecording;
+import com.gescof.springbootpostgrecompose.events.CustomersRequestContext;
+import com.gescof.springbootpostgrecompose.models.CustomerRequest;
+import com.gescof.springbootpostgrecompose.models.CustomerResponse;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CustomersJsonHttpMessageConverterTest {
+    private CustomersJsonHttpMessageConverter customersJsonHttpMessageConverter;
+
+    @BeforeEach
+    void init() {
+        customersJsonHttpMessageConverter = new CustomersJsonHttpMessageConverter(new ObjectMapper());
+        CustomersRequestContext.setRequestId("test-request-id");
+    }
+
+    @AfterEach
+    void tearDown() {
+        CustomersRequestContext.clear();
+    }
+
+    @Test
+    void write_list_shouldRecordWriteEventWithListSize() throws Exception {
+        // Given
+        final List<CustomerResponse> customerResponseList = List.of(
+                CustomerResponse.builder().id(1L).name("Name").email("email@test.com").age(27).build(),
+                CustomerResponse.builder().id(2L).name("Other").email("other@test.com").age(42).build());
+        final MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        // Then
+        final Map<String, List<RecordedEvent>> result;
+        try (var recording = new CustomersEventsRecording()) {
+            customersJsonHttpMessageConverter.write(customerResponseList, MediaType.APPLICATION_JSON, outputMessage);
+            result = recording.stop();
+        }
+
+        // Assert
+        final List<RecordedEvent> serializationEvents = result.getOrDefault("CustomersSerialization", List.of());
+        assertAll("Write should be recorded with the request id and list size",
+                () -> assertEquals(1, serializationEvents.size()),
+                () -> assertEquals("test-request-id", serializationEvents.get(0).getString("requestId")),
+                () -> assertEquals("write", serializationEvents.get(0).getString("operation")),
+                () -> assertEquals(2, serializationEvents.get(0).getInt("rowCount"))
+        );
+    }
+
+    @Test
+    void read_object_shouldRecordReadEvent() throws Exception {
+        // Given
+        final MockHttpInputMessage inputMessage = new MockHttpInputMessage(
+                "{\"name\":\"Name\",\"email\":\"email@test.com\",\"age\":27}".getBytes(StandardCharsets.UTF_8));
+        inputMessage.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        // Then
+        final Map<String, List<RecordedEvent>> result;
+        final Object customerRequest;
+        try (var recording = new CustomersEventsRecording()) {
+            customerRequest = customersJsonHttpMessageConverter.read(CustomerRequest.class, null, inputMessage);
+            result = recording.stop();
+        }
+
+        // Assert
+        final List<RecordedEvent> serializationEvents = result.getOrDefault("CustomersSerialization", List.of());
+        assertAll("Read should be recorded with the request id",
+                () -> assertEquals(new CustomerRequest("Name", "email@test.com", 27), customerRequest),
+                () -> assertEquals(1, serializationEvents.size()),
+                () -> assertEquals("read", serializationEvents.get(0).getString("operation")),
+                () -> assertEquals(1, serializationEvents.get(0).getInt("rowCount"))
+        );
+    }
+}
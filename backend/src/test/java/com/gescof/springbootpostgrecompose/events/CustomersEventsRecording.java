@@ -0,0 +1,48 @@
+package com.gescof.springbootpostgrecompose.events;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class CustomersEventsRecording implements AutoCloseable {
+    private static final String EVENT_NAME_PREFIX = "com.gescof.springbootpostgrecompose.";
+
+    private final Recording recording = new Recording();
+
+    public CustomersEventsRecording() {
+        recording.enable(EVENT_NAME_PREFIX + "CustomersRequest");
+        recording.enable(EVENT_NAME_PREFIX + "CustomersSerialization");
+        recording.enable(EVENT_NAME_PREFIX + "CustomersService");
+        recording.enable(EVENT_NAME_PREFIX + "CustomersMapper");
+        recording.enable(EVENT_NAME_PREFIX + "CustomersRepository");
+        recording.enable(EVENT_NAME_PREFIX + "CustomersConnection");
+        recording.enable(EVENT_NAME_PREFIX + "CustomersStatement");
+        recording.enable(EVENT_NAME_PREFIX + "CustomersFlush");
+        recording.start();
+    }
+
+    public Map<String, List<RecordedEvent>> stop() throws IOException {
+        recording.stop();
+        var recordingFile = Files.createTempFile("customers-events-", ".jfr");
+        try {
+            recording.dump(recordingFile);
+            return RecordingFile.readAllEvents(recordingFile).stream()
+                    .filter(event -> event.getEventType().getName().startsWith(EVENT_NAME_PREFIX))
+                    .collect(Collectors.groupingBy(
+                            event -> event.getEventType().getName().substring(EVENT_NAME_PREFIX.length())));
+        } finally {
+            Files.deleteIfExists(recordingFile);
+        }
+    }
+
+    @Override
+    public void close() {
+        recording.close();
+    }
+}
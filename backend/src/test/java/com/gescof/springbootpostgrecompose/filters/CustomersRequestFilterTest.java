@@ -0,0 +1,190 @@
+package com.gescof.springbootpostgrecompose.filters;
+
+import com.gescof.springbootpostgrecompose.events.CustomersEventsRecording;
+import com.gescof.springbootpostgrecompose.events.CustomersRequestContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CustomersRequestFilterTest {
+    private CustomersRequestFilter customersRequestFilter;
+
+    private final AtomicReference<String> requestIdInChain = new AtomicReference<>();
+
+    @BeforeEach
+    void init() {
+        customersRequestFilter = new CustomersRequestFilter();
+        CustomersRequestContext.clear();
+    }
+
+    @Test
+    void doFilter_withoutRequestId_shouldGenerateAndEchoRequestId() throws Exception {
+        // Given
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/customers/");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Then
+        customersRequestFilter.doFilter(request, response, capturingFilterChain());
+
+        // Assert
+        final String result = response.getHeader(CustomersRequestFilter.REQUEST_ID_HEADER);
+        assertAll("Generated request id should be echoed and visible in the chain",
+                () -> assertNotNull(result),
+                () -> assertEquals(result, requestIdInChain.get()),
+                () -> assertNull(CustomersRequestContext.getRequestId())
+        );
+    }
+
+    @Test
+    void doFilter_withRequestId_shouldEchoRequestId() throws Exception {
+        // Given
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/customers/");
+        request.addHeader(CustomersRequestFilter.REQUEST_ID_HEADER, "test-request-id");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Then
+        customersRequestFilter.doFilter(request, response, capturingFilterChain());
+
+        // Assert
+        assertAll("Given request id should be echoed and visible in the chain",
+                () -> assertEquals("test-request-id", response.getHeader(CustomersRequestFilter.REQUEST_ID_HEADER)),
+                () -> assertEquals("test-request-id", requestIdInChain.get())
+        );
+    }
+
+    @Test
+    void doFilter_withTooLongRequestId_shouldGenerateRequestId() throws Exception {
+        // Given
+        final String tooLongRequestId = "x".repeat(65);
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/customers/");
+        request.addHeader(CustomersRequestFilter.REQUEST_ID_HEADER, tooLongRequestId);
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Then
+        customersRequestFilter.doFilter(request, response, capturingFilterChain());
+
+        // Assert
+        final String result = response.getHeader(CustomersRequestFilter.REQUEST_ID_HEADER);
+        assertAll("Too long request id should be replaced",
+                () -> assertNotNull(result),
+                () -> assertNotEquals(tooLongRequestId, result),
+                () -> assertEquals(result, requestIdInChain.get())
+        );
+    }
+
+    @Test
+    void doFilter_chainThrows_shouldClearRequestIdAndRecordInternalServerError() throws Exception {
+        // Given
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/customers/");
+        request.addHeader(CustomersRequestFilter.REQUEST_ID_HEADER, "test-request-id");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Then
+        final Map<String, List<RecordedEvent>> result;
+        try (var recording = new CustomersEventsRecording()) {
+            assertThrows(ServletException.class, () -> customersRequestFilter.doFilter(request, response,
+                    (servletRequest, servletResponse) -> {
+                        throw new ServletException("Chain failure");
+                    }));
+            result = recording.stop();
+        }
+
+        // Assert
+        final List<RecordedEvent> requestEvents = result.getOrDefault("CustomersRequest", List.of());
+        assertAll("Failed request should be recorded and the request id cleared",
+                () -> assertNull(CustomersRequestContext.getRequestId()),
+                () -> assertEquals(1, requestEvents.size()),
+                () -> assertEquals("test-request-id", requestEvents.get(0).getString("requestId")),
+                () -> assertEquals("GET", requestEvents.get(0).getString("method")),
+                () -> assertEquals("/api/v1/customers/", requestEvents.get(0).getString("path")),
+                () -> assertEquals(500, requestEvents.get(0).getInt("status"))
+        );
+    }
+
+    @Test
+    void doFilter_chainReturns_shouldRecordResponseStatus() throws Exception {
+        // Given
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/customers/");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Then
+        final Map<String, List<RecordedEvent>> result;
+        try (var recording = new CustomersEventsRecording()) {
+            customersRequestFilter.doFilter(request, response,
+                    (servletRequest, servletResponse) -> response.setStatus(404));
+            result = recording.stop();
+        }
+
+        // Assert
+        final List<RecordedEvent> requestEvents = result.getOrDefault("CustomersRequest", List.of());
+        assertAll("Completed request should be recorded with the response status",
+                () -> assertEquals(1, requestEvents.size()),
+                () -> assertEquals(404, requestEvents.get(0).getInt("status"))
+        );
+    }
+
+    @Test
+    void doFilter_withContextPath_shouldFilterCustomersPath() throws Exception {
+        // Given
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/api/v1/customers/1");
+        request.setContextPath("/app");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Then
+        customersRequestFilter.doFilter(request, response, capturingFilterChain());
+
+        // Assert
+        assertNotNull(response.getHeader(CustomersRequestFilter.REQUEST_ID_HEADER));
+    }
+
+    @Test
+    void doFilter_customersRootPath_shouldFilter() throws Exception {
+        // Given
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/customers");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Then
+        customersRequestFilter.doFilter(request, response, capturingFilterChain());
+
+        // Assert
+        assertNotNull(response.getHeader(CustomersRequestFilter.REQUEST_ID_HEADER));
+    }
+
+    @Test
+    void doFilter_otherPaths_shouldSkip() throws Exception {
+        for (String path : List.of("/api-docs", "/api/v1/customersX", "/api/v1/admin/profiling/start")) {
+            // Given
+            final MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+            final MockHttpServletResponse response = new MockHttpServletResponse();
+            requestIdInChain.set(null);
+
+            // Then
+            customersRequestFilter.doFilter(request, response, capturingFilterChain());
+
+            // Assert
+            assertAll("Path " + path + " should not be filtered",
+                    () -> assertNull(response.getHeader(CustomersRequestFilter.REQUEST_ID_HEADER)),
+                    () -> assertNull(requestIdInChain.get())
+            );
+        }
+    }
+
+    private FilterChain capturingFilterChain() {
+        return (request, response) -> requestIdInChain.set(CustomersRequestContext.getRequestId());
+    }
+}
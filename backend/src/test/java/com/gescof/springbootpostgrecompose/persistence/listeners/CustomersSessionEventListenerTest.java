@@ -0,0 +1,66 @@
+package com.gescof.springbootpostgrecompose.persistence.listeners;
+
+import com.gescof.springbootpostgrecompose.events.CustomersEventsRecording;
+import com.gescof.springbootpostgrecompose.events.CustomersRequestContext;
+import com.gescof.springbootpostgrecompose.persistence.entities.Customer;
+import com.gescof.springbootpostgrecompose.persistence.repos.CustomersRepository;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CustomersSessionEventListenerTest {
+    @Autowired
+    private CustomersRepository customersRepository;
+
+    @AfterEach
+    void tearDown() {
+        CustomersRequestContext.clear();
+        customersRepository.deleteAll();
+    }
+
+    @Test
+    void save_shouldRecordConnectionStatementAndFlushEvents() throws Exception {
+        // Given
+        final Customer customer = Customer.builder().name("Name").email("email@test.com").age(27).build();
+        CustomersRequestContext.setRequestId("test-request-id");
+
+        // Then
+        final Map<String, List<RecordedEvent>> result;
+        try (var recording = new CustomersEventsRecording()) {
+            customersRepository.save(customer);
+            result = recording.stop();
+        }
+
+        // Assert
+        final List<RecordedEvent> connectionEvents = result.getOrDefault("CustomersConnection", List.of());
+        final List<RecordedEvent> statementEvents = result.getOrDefault("CustomersStatement", List.of());
+        final List<RecordedEvent> flushEvents = result.getOrDefault("CustomersFlush", List.of());
+        assertAll("Repository call should be split into connection, statement and flush events",
+                () -> assertFalse(connectionEvents.isEmpty()),
+                () -> assertFalse(statementEvents.isEmpty()),
+                () -> assertEquals(1, flushEvents.size()),
+                () -> assertEquals(1, flushEvents.get(0).getInt("rowCount")),
+                () -> assertTrue(connectionEvents.stream()
+                        .allMatch(event -> "test-request-id".equals(event.getString("requestId")))),
+                () -> assertTrue(statementEvents.stream()
+                        .allMatch(event -> "test-request-id".equals(event.getString("requestId"))))
+        );
+    }
+}
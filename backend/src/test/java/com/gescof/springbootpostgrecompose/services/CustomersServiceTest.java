@@ -1,16 +1,21 @@
 package com.gescof.springbootpostgrecompose.services;
 
+import com.gescof.springbootpostgrecompose.events.CustomersEventsRecording;
+import com.gescof.springbootpostgrecompose.events.CustomersRequestContext;
 import com.gescof.springbootpostgrecompose.exceptions.CustomersNotFoundException;
 import com.gescof.springbootpostgrecompose.models.CustomerRequest;
 import com.gescof.springbootpostgrecompose.models.CustomerResponse;
 import com.gescof.springbootpostgrecompose.persistence.entities.Customer;
 import com.gescof.springbootpostgrecompose.persistence.repos.CustomersRepository;
 import com.gescof.springbootpostgrecompose.services.mappers.CustomersMapper;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.EmptyResultDataAccessException;
 
 import java.time.Clock;
@@ -19,10 +24,12 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
@@ -45,6 +52,11 @@ class CustomersServiceTest {
         MockitoAnnotations.openMocks(this);
     }
 
+    @AfterEach
+    void tearDown() {
+        CustomersRequestContext.clear();
+    }
+
     @Test
     void getCustomers_existing_shouldReturnList() {
         // Given
@@ -182,4 +194,89 @@ class CustomersServiceTest {
         // Assert
         verify(customersRepositoryMock, times(1)).deleteById(1L);
     }
+
+    @Test
+    void getCustomers_existing_shouldRecordRepositoryMapperAndServiceEvents() throws Exception {
+        // Given
+        final Customer mockedCustomerEntity = Customer.builder()
+                .id(1L).name("Name").email("email@test.com").age(27).build();
+        final CustomerResponse mockedCustomerResponse = CustomerResponse.builder()
+                .id(1L).name("Name").email("email@test.com").age(27).build();
+        final List<Customer> mockedCustomerEntityList = List.of(mockedCustomerEntity);
+        final List<CustomerResponse> mockedCustomerResponseList = List.of(mockedCustomerResponse);
+        CustomersRequestContext.setRequestId("test-request-id");
+
+        // When
+        doReturn(mockedCustomerEntityList).when(customersRepositoryMock).findAll();
+        doReturn(mockedCustomerResponseList).when(customersMapper).customerEntityListToCustomerResponseList(mockedCustomerEntityList);
+
+        // Then
+        final Map<String, List<RecordedEvent>> result;
+        try (var recording = new CustomersEventsRecording()) {
+            customersService.getCustomers();
+            result = recording.stop();
+        }
+
+        // Assert
+        assertAll("Every stage should be recorded with the request id and row count",
+                () -> assertEvent(result, "CustomersRepository", "findAll", 1),
+                () -> assertEvent(result, "CustomersMapper", "customerEntityListToCustomerResponseList", 1),
+                () -> assertEvent(result, "CustomersService", "getCustomers", 1)
+        );
+    }
+
+    @Test
+    void getCustomers_repositoryFailure_shouldStillRecordRepositoryAndServiceEvents() throws Exception {
+        // Given
+        CustomersRequestContext.setRequestId("test-request-id");
+
+        // When
+        doThrow(new DataAccessResourceFailureException("Connection is not available"))
+                .when(customersRepositoryMock).findAll();
+
+        // Then
+        final Map<String, List<RecordedEvent>> result;
+        try (var recording = new CustomersEventsRecording()) {
+            assertThrows(DataAccessResourceFailureException.class, () -> customersService.getCustomers());
+            result = recording.stop();
+        }
+
+        // Assert
+        assertAll("Failed stages should be recorded without rows",
+                () -> assertEvent(result, "CustomersRepository", "findAll", 0),
+                () -> assertEvent(result, "CustomersService", "getCustomers", 0),
+                () -> assertFalse(result.containsKey("CustomersMapper"))
+        );
+    }
+
+    @Test
+    void deleteCustomer_nonExisting_shouldRecordRepositoryAndServiceEvents() throws Exception {
+        // Given
+        CustomersRequestContext.setRequestId("test-request-id");
+
+        // When
+        doThrow(EmptyResultDataAccessException.class).when(customersRepositoryMock).deleteById(1L);
+
+        // Then
+        final Map<String, List<RecordedEvent>> result;
+        try (var recording = new CustomersEventsRecording()) {
+            assertThrows(CustomersNotFoundException.class, () -> customersService.deleteCustomer(1L));
+            result = recording.stop();
+        }
+
+        // Assert
+        assertAll("Not found stages should be recorded without rows",
+                () -> assertEvent(result, "CustomersRepository", "deleteById", 0),
+                () -> assertEvent(result, "CustomersService", "deleteCustomer", 0)
+        );
+    }
+
+    private void assertEvent(Map<String, List<RecordedEvent>> events, String eventName,
+                             String operation, int rowCount) {
+        final List<RecordedEvent> recordedEvents = events.getOrDefault(eventName, List.of());
+        assertEquals(1, recordedEvents.size());
+        assertEquals("test-request-id", recordedEvents.get(0).getString("requestId"));
+        assertEquals(operation, recordedEvents.get(0).getString("operation"));
+        assertEquals(rowCount, recordedEvents.get(0).getInt("rowCount"));
+    }
 }
@@ -0,0 +1,165 @@
+package com.gescof.springbootpostgrecompose.services;
+
+import com.gescof.springbootpostgrecompose.configurations.ProfilingProperties;
+import com.gescof.springbootpostgrecompose.events.CustomersRequestContext;
+import com.gescof.springbootpostgrecompose.events.CustomersServiceEvent;
+import com.gescof.springbootpostgrecompose.exceptions.ProfilingAlreadyStartedException;
+import com.gescof.springbootpostgrecompose.exceptions.ProfilingNotStartedException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProfilingServiceTest {
+    private ProfilingProperties profilingProperties;
+    private ProfilingService profilingService;
+
+    @BeforeEach
+    void init() throws Exception {
+        profilingProperties = new ProfilingProperties(
+                true, Duration.ofMinutes(1), DataSize.ofMegabytes(10), "default", "test-token");
+        profilingService = new ProfilingService(profilingProperties, Configuration.getConfiguration("default"));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        CustomersRequestContext.clear();
+        try {
+            Files.deleteIfExists(profilingService.stopRecording());
+        } catch (ProfilingNotStartedException profilingNotStartedException) {
+            // Recording already stopped by the test
+        }
+    }
+
+    @Test
+    void startRecording_shouldReturnRecordingId() {
+        // Then
+        final Long result = profilingService.startRecording(Duration.ofSeconds(30));
+
+        // Assert
+        assertNotNull(result);
+    }
+
+    @Test
+    void startRecording_alreadyStarted_shouldThrowProfilingAlreadyStartedException() {
+        // Given
+        profilingService.startRecording(null);
+
+        // Then
+        assertThrows(ProfilingAlreadyStartedException.class, () -> profilingService.startRecording(null));
+    }
+
+    @Test
+    void stopRecording_notStarted_shouldThrowProfilingNotStartedException() {
+        assertThrows(ProfilingNotStartedException.class, () -> profilingService.stopRecording());
+    }
+
+    @Test
+    void stopRecording_started_shouldReturnRecordingWithCustomersEvents() throws Exception {
+        // Given
+        profilingService.startRecording(Duration.ofSeconds(30));
+        CustomersRequestContext.setRequestId("test-request-id");
+        try (var serviceEvent = CustomersServiceEvent.start("getCustomers")) {
+            serviceEvent.setRowCount(3);
+        }
+
+        // Then
+        final Path result = profilingService.stopRecording();
+
+        // Assert
+        final List<RecordedEvent> customersServiceEvents = RecordingFile.readAllEvents(result).stream()
+                .filter(event -> event.getEventType().getName()
+                        .equals("com.gescof.springbootpostgrecompose.CustomersService"))
+                .toList();
+        Files.deleteIfExists(result);
+        assertAll("Recording should contain the customers service event",
+                () -> assertEquals(1, customersServiceEvents.size()),
+                () -> assertEquals("test-request-id", customersServiceEvents.get(0).getString("requestId")),
+                () -> assertEquals("getCustomers", customersServiceEvents.get(0).getString("operation")),
+                () -> assertEquals(3, customersServiceEvents.get(0).getInt("rowCount")),
+                () -> assertTrue(result.getFileName().toString().endsWith(".jfr"))
+        );
+    }
+
+    @Test
+    void stopRecording_started_shouldNotContainSensitiveEvents() throws Exception {
+        // Given
+        profilingService.startRecording(Duration.ofSeconds(30));
+
+        // Then
+        final Path result = profilingService.stopRecording();
+
+        // Assert
+        final List<String> recordedEventNames = RecordingFile.readAllEvents(result).stream()
+                .map(event -> event.getEventType().getName())
+                .distinct()
+                .toList();
+        Files.deleteIfExists(result);
+        assertAll("Recording should not expose the environment, system properties or JVM arguments",
+                () -> assertFalse(recordedEventNames.isEmpty()),
+                () -> assertFalse(recordedEventNames.contains("jdk.InitialEnvironmentVariable")),
+                () -> assertFalse(recordedEventNames.contains("jdk.InitialSystemProperty")),
+                () -> assertFalse(recordedEventNames.contains("jdk.JVMInformation")),
+                () -> assertFalse(recordedEventNames.contains("jdk.SystemProcess"))
+        );
+    }
+
+    @Test
+    void startRecording_startFails_shouldRollBackCurrentRecording() throws Exception {
+        // Given
+        final Recording alreadyStartedRecording = new Recording();
+        alreadyStartedRecording.start();
+        final ProfilingService failingProfilingService = new ProfilingService(
+                profilingProperties, Configuration.getConfiguration("default")) {
+            @Override
+            Recording createRecording(Map<String, String> settings) {
+                return alreadyStartedRecording;
+            }
+        };
+
+        // Then
+        assertThrows(IllegalStateException.class, () -> failingProfilingService.startRecording(null));
+
+        // Assert
+        assertAll("Failed recording should be closed and not kept as current",
+                () -> assertEquals(RecordingState.CLOSED, alreadyStartedRecording.getState()),
+                () -> assertThrows(ProfilingNotStartedException.class, failingProfilingService::stopRecording)
+        );
+    }
+
+    @Test
+    void stopRecording_again_shouldDeletePreviousRecordingFile() throws Exception {
+        // Given
+        profilingService.startRecording(Duration.ofSeconds(30));
+        final Path previousRecordingFile = profilingService.stopRecording();
+        profilingService.startRecording(Duration.ofSeconds(30));
+
+        // Then
+        final Path result = profilingService.stopRecording();
+
+        // Assert
+        assertAll("Previous recording file should be deleted when never streamed",
+                () -> assertFalse(Files.exists(previousRecordingFile)),
+                () -> assertTrue(Files.exists(result))
+        );
+        Files.deleteIfExists(result);
+    }
+}